@@ -1,7 +1,9 @@
-package com.example.finalproject;
+package com.example.finalproject.client;
 // Main JavaFX application class for WordleClient
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.application.Platform;
+import javafx.css.PseudoClass;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
@@ -10,7 +12,6 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
-import javafx.scene.text.Font;
 import javafx.stage.Stage;
 
 import java.io.BufferedReader;
@@ -21,12 +22,19 @@ import java.net.Socket;
 import java.time.format.DateTimeFormatterBuilder;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-
-import static com.example.finalproject.WordleServer.announceResults;
-import static com.example.finalproject.WordleServer.broadcast;
+import com.example.finalproject.core.Protocol;
 
 public class WordleClient extends Application {
+    // Tile states, styled in wordle.css
+    private static final PseudoClass PENDING = PseudoClass.getPseudoClass("pending");
+    private static final PseudoClass CORRECT = PseudoClass.getPseudoClass("correct");
+    private static final PseudoClass PRESENT = PseudoClass.getPseudoClass("present");
+    private static final PseudoClass ABSENT = PseudoClass.getPseudoClass("absent");
+    private static final PseudoClass LOW_TIME = PseudoClass.getPseudoClass("low-time");
+
     private GridPane guessGrid;
     private Label[][] gridTiles = new Label[6][5];
     private Label timerLabel;
@@ -44,6 +52,25 @@ public class WordleClient extends Application {
     private int currentCol = 0;  // Track current column
     private int currentActiveRow = 0;  // Track current active row
     private Button submitButton;
+    private Stage mainStage; // Owner for in-game dialogs
+    // Lines from the server, drained on the FX thread once per pulse by inboxPump
+    private final ConcurrentLinkedQueue<String> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean pumpRunning = new AtomicBoolean(false);
+    private final AnimationTimer inboxPump = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (!inbox.isEmpty()) {
+                drainMessages();
+                return;
+            }
+            // Idle: stop asking for pulses until the reader thread queues another line
+            stop();
+            pumpRunning.set(false);
+            if (!inbox.isEmpty() && pumpRunning.compareAndSet(false, true)) {
+                start(); // A line slipped in while stopping
+            }
+        }
+    };
 
     @Override
     public void start(Stage primaryStage) {
@@ -51,11 +78,22 @@ public class WordleClient extends Application {
         showInstructions();
 
         // Then proceed with normal setup
-        connectedPlayersLabel = new Label("Waiting for other player...");
         username = promptUsername();
+        mainStage = primaryStage;
         primaryStage.setTitle("Multiplayer Wordle - " + username);
 
+        Scene scene = new Scene(createLayout(username), 400, 500);
+        primaryStage.setScene(scene);
+        primaryStage.show();
+        setupGridInputHandling();
+        connectToServer(username, submitButton, primaryStage);
+    }
+
+    // Build the board, labels and submit button, styled by wordle.css
+    VBox createLayout(String username) {
+        connectedPlayersLabel = new Label("Waiting for other player...");
         timerLabel = new Label("Time left: 02:00");
+        timerLabel.getStyleClass().add("timer");
 
         guessGrid = new GridPane();
         guessGrid.setAlignment(Pos.CENTER);
@@ -84,12 +122,8 @@ public class WordleClient extends Application {
                 guessGrid, legend, submitButton);  // Only submit button now
         layout.setAlignment(Pos.CENTER);
         layout.setMinWidth(300);
-
-        Scene scene = new Scene(layout, 400, 500);
-        primaryStage.setScene(scene);
-        primaryStage.show();
-        setupGridInputHandling();
-        connectToServer(username, submitButton, primaryStage);
+        layout.getStylesheets().add(getClass().getResource("wordle.css").toExternalForm());
+        return layout;
     }
     // Show game instructions popup
     private void showInstructions() {
@@ -117,11 +151,11 @@ public class WordleClient extends Application {
         Label grayLabel = new Label("Not in word");
 
         Label greenBox = createTile("");
-        greenBox.setStyle("-fx-background-color: green; -fx-border-color: black;");
+        setTileState(greenBox, CORRECT);
         Label yellowBox = createTile("");
-        yellowBox.setStyle("-fx-background-color: gold; -fx-border-color: black;");
+        setTileState(yellowBox, PRESENT);
         Label grayBox = createTile("");
-        grayBox.setStyle("-fx-background-color: lightgray; -fx-border-color: black;");
+        setTileState(grayBox, ABSENT);
 
         HBox legend = new HBox(10,
                 greenBox, greenLabel,
@@ -217,21 +251,18 @@ public class WordleClient extends Application {
 
             // Visual feedback
             for (int c = 0; c < 5; c++) {
-                gridTiles[currentActiveRow][c].setStyle(
-                        gridTiles[currentActiveRow][c].getStyle() +
-                                "-fx-border-color: blue;"
-                );
+                setTileState(gridTiles[currentActiveRow][c], PENDING);
             }
         }
     }
     // Connect to WordleServer and initialize communication
     private void connectToServer(String username, Button submitButton, Stage primaryStage) {
         try {
-            Socket socket = new Socket("localhost", 5001);
+            Socket socket = new Socket("localhost", Protocol.DEFAULT_PORT);
             out = new PrintWriter(socket.getOutputStream(), true);
             in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
             out.println(username);
-            new Thread(() -> receiveMessages(submitButton, primaryStage)).start();
+            new Thread(this::receiveMessages).start();
         } catch (IOException e) {
             showAlert("Error", "Could not connect to the server.");
             System.exit(1);
@@ -247,107 +278,131 @@ public class WordleClient extends Application {
     }
 
 
-    // Handle incoming messages from the server and update UI accordingly
-    private void receiveMessages(Button submitButton, Stage mainStage) {
+    // Handle incoming messages from the server. The reader thread only queues lines;
+    // the UI applies everything queued once per frame, so a burst or a trickle of lines never
+    // costs more than one update pass per pulse.
+    private void receiveMessages() {
         try {
             String message;
-            final Button finalSubmitButton = submitButton;
-            final Stage finalMainStage = mainStage;
             while ((message = in.readLine()) != null) {
-                String finalMessage = message;
-
-                Platform.runLater(() -> {
-                    if (finalMessage.startsWith("FEEDBACK: ")) {
-                        String feedback = finalMessage.substring(9).trim();
-
-
-                        if (feedback.toLowerCase().contains("you guessed it")) {
-                            endGame("WIN", "Congratulations! You guessed the word!", null);
-
-
-                        }
-                        else if (feedback.toLowerCase().contains("the word was:")) {
-                            String[] parts = feedback.toLowerCase().split("the word was:");
-                            String correctWord = parts.length > 1 ? parts[1].trim().toUpperCase() : "[UNKNOWN]";
-                            if (feedback.toLowerCase().contains("time's up!")) {
-                                endGame("TIME_UP", "Time ran out!", correctWord);
-                            }
-                            else if (feedback.toLowerCase().contains("out of attempts!")) {
-                                endGame("ATTEMPTS_EXHAUSTED", "You used all your tries!", correctWord);
-                            }
-
-                            finalSubmitButton.setDisable(true);
-                            if (gameTimer != null) gameTimer.cancel();
-                        }
-                        else if (feedback.toLowerCase().contains("invalid guess")) {
-                            showAlert("Invalid Guess", "Word not in list!");
-                            // Clear current row and reset focus
-                            for (int col = 0; col < 5; col++) {
-                                gridTiles[currentRow][col].setText("");
-                            }
-                            currentCol = 0;
-                            gridTiles[currentRow][currentCol].requestFocus();
-
-                        }
-                        else {
-                            updateRow(currentRow, lastGuess, feedback);
-                            currentRow++;
-                            currentActiveRow = currentRow;  // Keep these in sync
-                            currentCol = 0;
-                            if (currentRow < 6) {
-                                gridTiles[currentRow][currentCol].requestFocus();
-                            }
-                        }
-
-                    } else if (finalMessage.startsWith("SERVER: ")) {
-                        String serverMsg = finalMessage.substring(8);
-                        if (serverMsg.contains("has joined the game!")) {
-                            connectedPlayersLabel.setText("🔗 " + serverMsg);
-                        } else if (serverMsg.contains("Players: ")) {
-                            connectedPlayersLabel.setText("👥 " + serverMsg);
-
-                            if (!gameStarted && serverMsg.trim().split(" ").length >= 3) {
-                                gameStarted = true;
-
-                                Alert alert = new Alert(Alert.AlertType.INFORMATION);
-                                alert.setTitle("✅ Game Starting!");
-                                alert.setHeaderText(null);
-                                alert.setContentText("Both players are connected. Let's go!");
-
-                                Stage alertStage = (Stage) alert.getDialogPane().getScene().getWindow();
-                                alertStage.initOwner(mainStage);
-                                alertStage.setAlwaysOnTop(true);
-                                alertStage.toFront();
-
-                                alert.showAndWait();
-
-                                if (!timerStarted) {
-                                    submitButton.setDisable(false);
-                                    currentActiveRow = 0;
-                                    currentCol = 0;
-                                    gridTiles[currentActiveRow][currentCol].requestFocus();
-
-                                    // Reset timer values before starting
-                                    timerLabel.setText("Time left: 02:00");
-                                    startTimer();  // This will initialize a new timer
-                                    timerStarted = true;
-                                }
-                            }
-                        } else if (serverMsg.contains("WINNER:")) {
-                            String correctWord = serverMsg.contains("WORD:") ?
-                                    serverMsg.split("WORD:")[1].trim().toUpperCase() : null;
-                            endGame("SERVER_WIN", serverMsg.replace("WINNER:", "Result:"), correctWord);
-
-
-                        }
-                    }
-                });
+                queueMessage(message);
             }
         } catch (IOException e) {
             Platform.runLater(() -> showAlert("Error", "Connection lost."));
         }
     }
 
+    // Queue a server line from any thread. Only a line arriving while the pump is idle posts a
+    // runLater, to start it; AnimationTimer has to be started on the FX thread.
+    void queueMessage(String message) {
+        inbox.add(message);
+        if (pumpRunning.compareAndSet(false, true)) {
+            Platform.runLater(inboxPump::start);
+        }
+    }
+
+    // Apply every queued server message on the FX thread, in arrival order
+    private void drainMessages() {
+        String message;
+        while ((message = inbox.poll()) != null) {
+            handleMessage(message, submitButton, mainStage);
+        }
+    }
+
+    // Update the UI for a single server message
+    private void handleMessage(String message, Button submitButton, Stage mainStage) {
+        if (message.startsWith(Protocol.FEEDBACK)) {
+            String feedback = message.substring(9).trim();
+
+
+            if (feedback.toLowerCase().contains("you guessed it")) {
+                endGame("WIN", "Congratulations! You guessed the word!", null);
+
+
+            }
+            else if (feedback.toLowerCase().contains("the word was:")) {
+                String[] parts = feedback.toLowerCase().split("the word was:");
+                String correctWord = parts.length > 1 ? parts[1].trim().toUpperCase() : "[UNKNOWN]";
+                if (feedback.toLowerCase().contains("time's up!")) {
+                    endGame("TIME_UP", "Time ran out!", correctWord);
+                }
+                else if (feedback.toLowerCase().contains("out of attempts!")) {
+                    endGame("ATTEMPTS_EXHAUSTED", "You used all your tries!", correctWord);
+                }
+
+                submitButton.setDisable(true);
+                if (gameTimer != null) gameTimer.cancel();
+            }
+            else if (feedback.toLowerCase().contains("invalid guess")) {
+                showAlert("Invalid Guess", "Word not in list!");
+                // Clear current row and reset focus
+                for (int col = 0; col < 5; col++) {
+                    gridTiles[currentRow][col].setText("");
+                    setTileState(gridTiles[currentRow][col], null);
+                }
+                currentCol = 0;
+                gridTiles[currentRow][currentCol].requestFocus();
+
+            }
+            else {
+                updateRow(currentRow, lastGuess, feedback);
+                currentRow++;
+                currentActiveRow = currentRow;  // Keep these in sync
+                currentCol = 0;
+                if (currentRow < 6) {
+                    gridTiles[currentRow][currentCol].requestFocus();
+                }
+            }
+
+        } else if (message.startsWith(Protocol.SERVER)) {
+            String serverMsg = message.substring(Protocol.SERVER.length());
+            if (serverMsg.contains("has joined the game!")) {
+                connectedPlayersLabel.setText("🔗 " + serverMsg);
+            } else if (serverMsg.contains("Players: ")) {
+                connectedPlayersLabel.setText("👥 " + serverMsg);
+
+                if (!gameStarted && serverMsg.trim().split(" ").length >= 3) {
+                    gameStarted = true;
+
+                    Alert alert = new Alert(Alert.AlertType.INFORMATION);
+                    alert.setTitle("✅ Game Starting!");
+                    alert.setHeaderText(null);
+                    alert.setContentText("Both players are connected. Let's go!");
+
+                    Stage alertStage = (Stage) alert.getDialogPane().getScene().getWindow();
+                    alertStage.initOwner(mainStage);
+                    alertStage.setAlwaysOnTop(true);
+                    alertStage.toFront();
+
+                    alert.showAndWait();
+
+                    if (!timerStarted) {
+                        submitButton.setDisable(false);
+                        currentActiveRow = 0;
+                        currentCol = 0;
+                        gridTiles[currentActiveRow][currentCol].requestFocus();
+
+                        // Reset timer values before starting
+                        timerLabel.setText("Time left: 02:00");
+                        startTimer();  // This will initialize a new timer
+                        timerStarted = true;
+                    }
+                }
+            } else if (serverMsg.startsWith(Protocol.TOURNAMENT_ROUND)) {
+                connectedPlayersLabel.setText("🏟️ " + serverMsg);
+                startTournamentRound();
+            } else if (serverMsg.startsWith(Protocol.TOURNAMENT_RANK) || serverMsg.contains("Tournament over!")) {
+                connectedPlayersLabel.setText(serverMsg);
+            } else if (serverMsg.contains("WINNER:")) {
+                String correctWord = serverMsg.contains("WORD:") ?
+                        serverMsg.split("WORD:")[1].trim().toUpperCase() : null;
+                endGame("SERVER_WIN", serverMsg.replace("WINNER:", "Result:"), correctWord);
+
+
+            }
+        }
+    }
+
     // Start 2-minute game timer with visual warning under 30s
     private void startTimer() {
         // Cancel existing timer if running
@@ -369,12 +424,12 @@ public class WordleClient extends Application {
 
                     if (timeLeft[0] <= 0) {
                         endGame("Time's Up!", "Game over!",null);
-                        out.println("TIMED_OUT");
+                        out.println(Protocol.TIMED_OUT);
                         this.cancel();
                     }
                     // Flash red when time is running low
                     else if (timeLeft[0] <= 30) {
-                        timerLabel.setStyle("-fx-text-fill: red;");
+                        timerLabel.pseudoClassStateChanged(LOW_TIME, true);
                     }
                     timeLeft[0]--;
                 });
@@ -386,21 +441,53 @@ public class WordleClient extends Application {
     private void disableAllTiles() {
         for (Label[] row : gridTiles) {
             for (Label tile : row) {
-                tile.setDisable(true);
-                tile.setStyle(tile.getStyle() + "-fx-opacity: 0.7;");
+                tile.setDisable(true); // Dimmed by .tile:disabled
             }
         }
     }
     // the grid making
     private Label createTile(String letter) {
         Label tile = new Label(letter);
-        tile.setPrefSize(50, 50);
-        tile.setFont(Font.font("Arial", 24));
-        tile.setAlignment(Pos.CENTER);
-        tile.setStyle("-fx-border-color: black; -fx-border-width: 2px; -fx-background-color: white;");
+        tile.getStyleClass().add("tile");
         return tile;
     }
 
+    // Switch a tile to one colour state (or back to plain with null) by toggling pseudo-classes
+    private void setTileState(Label tile, PseudoClass state) {
+        tile.pseudoClassStateChanged(PENDING, state == PENDING);
+        tile.pseudoClassStateChanged(CORRECT, state == CORRECT);
+        tile.pseudoClassStateChanged(PRESENT, state == PRESENT);
+        tile.pseudoClassStateChanged(ABSENT, state == ABSENT);
+    }
+
+    // Clear every tile and go back to the first row, ready for a new round
+    private void resetBoard() {
+        for (Label[] row : gridTiles) {
+            for (Label tile : row) {
+                tile.setText("");
+                setTileState(tile, null);
+                tile.setDisable(false); // Undo disableAllTiles from the last game over
+            }
+        }
+        lastGuess = "";
+        currentRow = 0;
+        currentActiveRow = 0;
+        currentCol = 0;
+    }
+
+    // A tournament round is starting: fresh board and a fresh 2 minute countdown
+    private void startTournamentRound() {
+        resetBoard();
+        gameStarted = true;
+        submitButton.setDisable(false);
+        gridTiles[currentActiveRow][currentCol].requestFocus();
+
+        timerLabel.pseudoClassStateChanged(LOW_TIME, false);
+        timerLabel.setText("Time left: 02:00");
+        startTimer();
+        timerStarted = true;
+    }
+
     // Populate current row with colors based on feedback
     private void updateRow(int rowIndex, String guess, String feedback) {
         for (int col = 0; col < 5; col++) {
@@ -409,13 +496,13 @@ public class WordleClient extends Application {
 
             switch (feedback.charAt(col)) {
                 case 'G':
-                    tile.setStyle("-fx-background-color: green; -fx-border-color: black; -fx-text-fill: white;");
+                    setTileState(tile, CORRECT);
                     break;
                 case 'Y':
-                    tile.setStyle("-fx-background-color: gold; -fx-border-color: black; -fx-text-fill: black;");
+                    setTileState(tile, PRESENT);
                     break;
                 default:
-                    tile.setStyle("-fx-background-color: lightgray; -fx-border-color: black; -fx-text-fill: black;");
+                    setTileState(tile, ABSENT);
                     break;
             }
         }
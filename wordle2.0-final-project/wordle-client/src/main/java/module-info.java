@@ -1,4 +1,4 @@
-module com.example.finalproject {
+module com.example.finalproject.client {
     requires javafx.controls;
     requires javafx.fxml;
     requires javafx.web;
@@ -11,7 +11,8 @@ module com.example.finalproject {
     requires eu.hansolo.tilesfx;
     requires com.almasb.fxgl.all;
     requires java.desktop;
+    requires com.example.finalproject.core;
 
-    opens com.example.finalproject to javafx.fxml;
-    exports com.example.finalproject;
+    opens com.example.finalproject.client to javafx.fxml;
+    exports com.example.finalproject.client;
 }
\ No newline at end of file
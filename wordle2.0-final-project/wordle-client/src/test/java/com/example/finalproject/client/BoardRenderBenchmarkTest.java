@@ -0,0 +1,159 @@
+package com.example.finalproject.client;
+
+import com.example.finalproject.core.Protocol;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.css.PseudoClass;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Headless (Monocle) render benchmark for the board: feeds FEEDBACK lines through queueMessage, the
+// path the network reader uses, and reports updates per second and how many pulses each board took.
+@ExtendWith(ApplicationExtension.class)
+class BoardRenderBenchmarkTest {
+    // One full board: six guesses, ending one letter short of a win so no end-of-game dialog opens
+    private static final String[] BOARD = {"XXXXX", "YXXXX", "GYXXX", "GGYXX", "GGGYX", "GGGGX"};
+    private static final Set<String> COLOURED = Set.of("correct", "present", "absent");
+    private static final int BURST_BOARDS = 300;
+    private static final int TRICKLE_BOARDS = 60;
+    private static final long TRICKLE_GAP_MS = 2; // Well under a 60Hz frame, so lines should share pulses
+
+    private Stage stage;
+    private final AtomicReference<Throwable> fxFailure = new AtomicReference<>();
+
+    @Start
+    void start(Stage stage) {
+        this.stage = stage;
+        // Exceptions thrown by runLater tasks and pulse handlers end up here
+        Thread.currentThread().setUncaughtExceptionHandler((thread, e) -> fxFailure.compareAndSet(null, e));
+        stage.setScene(new Scene(new VBox(), 400, 500));
+        stage.show();
+    }
+
+    // All six lines of a board arrive back to back, as when the server answers a queue of guesses
+    @Test
+    void burstOfLines() throws Exception {
+        runBoards("Burst", BURST_BOARDS, 0);
+    }
+
+    // Lines arrive a couple of milliseconds apart; the pump should still apply them once per pulse
+    @Test
+    void trickleOfLines() throws Exception {
+        runBoards("Trickle", TRICKLE_BOARDS, TRICKLE_GAP_MS);
+    }
+
+    // Plays each board on a fresh client and times it from the first queued line until every tile is coloured
+    private void runBoards(String name, int boards, long gapMillis) throws Exception {
+        AtomicLong pulses = new AtomicLong();
+        AtomicReference<Watch> watch = new AtomicReference<>();
+        AnimationTimer frames = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pulses.incrementAndGet();
+                Watch current = watch.get();
+                if (current != null && colouredTiles(current.grid) == BOARD.length * 5) {
+                    watch.set(null);
+                    current.rendered.countDown();
+                }
+            }
+        };
+        Platform.runLater(frames::start);
+
+        long elapsed = 0;
+        long pulsesUsed = 0;
+        try {
+            for (int board = 0; board < boards; board++) {
+                WordleClient client = new WordleClient();
+                AtomicReference<Parent> root = new AtomicReference<>();
+                onFx(() -> {
+                    root.set(client.createLayout("bench"));
+                    stage.getScene().setRoot(root.get());
+                });
+                setLastGuess(client, "CRANE"); // Stands in for submitGuess, which needs a server
+                CountDownLatch rendered = new CountDownLatch(1);
+                watch.set(new Watch(gridOf(root.get()), rendered));
+
+                long firstPulse = pulses.get();
+                long start = System.nanoTime();
+                for (String feedback : BOARD) {
+                    client.queueMessage(Protocol.FEEDBACK + feedback);
+                    if (gapMillis > 0) {
+                        Thread.sleep(gapMillis);
+                    }
+                }
+                assertTrue(rendered.await(5, TimeUnit.SECONDS), "Board " + board + " was never fully coloured");
+                elapsed += System.nanoTime() - start;
+                pulsesUsed += pulses.get() - firstPulse;
+            }
+        } finally {
+            Platform.runLater(frames::stop);
+        }
+        onFx(() -> {}); // Let anything still queued on the FX thread run before checking for failures
+
+        double seconds = elapsed / 1e9;
+        System.out.printf("%s: %.0f updates/s, %.1f pulses per board, %.1f frames/s (%d boards in %.2fs)%n",
+                name, boards * BOARD.length / seconds, (double) pulsesUsed / boards, pulsesUsed / seconds, boards, seconds);
+        assertNull(fxFailure.get(), () -> "Uncaught exception on the FX thread: " + fxFailure.get());
+    }
+
+    // Runs the task on the FX thread and waits for it
+    private static void onFx(Runnable task) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                task.run();
+            } finally {
+                done.countDown();
+            }
+        });
+        assertTrue(done.await(30, TimeUnit.SECONDS), "FX thread did not catch up");
+    }
+
+    private static void setLastGuess(WordleClient client, String guess) throws ReflectiveOperationException {
+        Field lastGuess = WordleClient.class.getDeclaredField("lastGuess");
+        lastGuess.setAccessible(true);
+        lastGuess.set(client, guess);
+    }
+
+    private static GridPane gridOf(Parent root) {
+        for (Node child : root.getChildrenUnmodifiable()) {
+            if (child instanceof GridPane grid) {
+                return grid;
+            }
+        }
+        throw new IllegalStateException("No board in the layout");
+    }
+
+    // Board tiles showing feedback; the legend tiles are outside the grid and not counted
+    private static int colouredTiles(GridPane grid) {
+        int coloured = 0;
+        for (Node tile : grid.getChildren()) {
+            for (PseudoClass state : tile.getPseudoClassStates()) {
+                if (COLOURED.contains(state.getPseudoClassName())) {
+                    coloured++;
+                    break;
+                }
+            }
+        }
+        return coloured;
+    }
+
+    private record Watch(GridPane grid, CountDownLatch rendered) {}
+}
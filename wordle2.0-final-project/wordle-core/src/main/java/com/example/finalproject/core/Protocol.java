@@ -0,0 +1,17 @@
+package com.example.finalproject.core;
+
+// Line prefixes and commands shared by WordleServer and WordleClient
+public final class Protocol {
+    public static final int DEFAULT_PORT = 5001; // Port the server listens on unless -Dwordle.port is set
+
+    public static final String FEEDBACK = "FEEDBACK: "; // Per-player replies to guesses
+    public static final String SERVER = "SERVER: "; // Broadcasts such as the player list and results
+    public static final String TIMED_OUT = "TIMED_OUT"; // Sent by a client when its countdown reaches zero
+
+    // Tournament notices, sent after SERVER
+    public static final String TOURNAMENT_ROUND = "Tournament round "; // A new round starts; the client clears its board
+    public static final String TOURNAMENT_RANK = "Tournament rank "; // The player's overall rank changed
+
+    private Protocol() {
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.finalproject.core;
+
+// Ranking rule shared by a single game's results and tournament standings
+public final class Scoring {
+    private Scoring() {
+    }
+
+    // Negative if a ranks ahead of b: fewest attempts wins, ties go to the fastest time
+    public static int compare(int attemptsA, long timeA, int attemptsB, long timeB) {
+        if (attemptsA != attemptsB) {
+            return Integer.compare(attemptsA, attemptsB);
+        }
+        return Long.compare(timeA, timeB);
+    }
+}
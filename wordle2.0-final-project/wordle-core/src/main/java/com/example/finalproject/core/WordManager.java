@@ -0,0 +1,170 @@
+package com.example.finalproject.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class WordManager {
+    // Current word list. Reloads build a new Dictionary and swap this reference in one write,
+    // so readers never lock and never see a half-built list.
+    private volatile Dictionary dictionary;
+    private int currentIndex;
+
+    public WordManager() {
+        dictionary = loadWords(); // Load from file
+        currentIndex = 0;
+    }
+    private Dictionary loadWords() {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(getClass().getResourceAsStream("words.txt")))) {
+
+            Dictionary loaded = Dictionary.read(reader);
+            if (loaded.words.isEmpty()) {
+                System.err.println(" No words loaded from words.txt!");
+            }
+            return loaded;
+
+        } catch (Exception e) {
+            System.err.println(" Error loading words.txt");
+            e.printStackTrace();
+            return Dictionary.EMPTY;
+        }
+    }
+
+    // Replaces the word list with the contents of an external file, without blocking guesses in flight.
+    // Games already in progress keep the word they were assigned.
+    public void reload(Path file) throws IOException {
+        Dictionary loaded;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            loaded = Dictionary.read(reader);
+        }
+        if (loaded.words.isEmpty()) {
+            throw new IOException("No five letter words in " + file + ", keeping the current list");
+        }
+        dictionary = loaded;
+    }
+
+    public int size() {
+        return dictionary.words.size();
+    }
+
+    // Check if the word has only alphabetic characters and the right length
+    public boolean isValidWord(String word) {
+        // Check if the word contains only alphabetic characters
+        if (!word.matches("[a-zA-Z]+")) {
+            return false;  // Invalid if it contains non-alphabetic characters
+        }
+
+        // Check if the word is of expected length (e.g., 5 characters for a 5-letter word game)
+        if (word.length() != 5) {
+            return false;  // Invalid if it doesn't match the required length
+        }
+
+        return dictionary.index.contains(word.toUpperCase());
+    }
+
+
+    public String assignWord() {
+        List<String> words = dictionary.words; // Read the snapshot once in case a reload swaps it
+        int randomNum = (int)(Math.random() * words.size());
+        return words.get(randomNum);
+    }
+
+
+    public String checkGuess(String word, String guess) {
+        if (word.length() != guess.length()) {
+            return "Invalid guess length!";
+        }
+
+        StringBuilder result = new StringBuilder();
+        boolean[] wordUsed = new boolean[word.length()]; // Track letters already used in the word
+        boolean[] guessUsed = new boolean[guess.length()]; // Track letters already used in the guess
+
+        // First step
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) == guess.charAt(i)) {
+                result.append("G"); // Correct letter in correct place
+                wordUsed[i] = true; // Mark letter in word as used
+                guessUsed[i] = true; // Mark letter in guess as used
+            } else {
+                result.append("X"); // Incorrect letter
+            }
+        }
+
+        // Second step
+        for (int i = 0; i < word.length(); i++) {
+            if (result.charAt(i) == 'X' && !guessUsed[i]) { // If it's not already green and not used in guess
+                for (int j = 0; j < word.length(); j++) {
+                    if (!wordUsed[j] && word.charAt(j) == guess.charAt(i)) {
+                        result.setCharAt(i, 'Y'); // Mark as yellow
+                        wordUsed[j] = true; // Mark the word letter as used
+                        guessUsed[i] = true; // Mark the guess letter as used
+                        break;
+                    }
+                }
+            }
+        }
+
+
+        return result.toString();
+    }
+
+    private String currentWord = "";
+    private List<String> fixedWords = List.of(); // When set, rounds take these in turn instead of a random pick
+
+    public synchronized String getCurrentWord() {
+        if (currentWord.isEmpty()) {
+            // first time only
+            currentWord = fixedWords.isEmpty() ? assignWord() : fixedWords.get(currentIndex++ % fixedWords.size());
+        }
+        return currentWord;
+    }
+
+    // Makes each new round use the next of the given words, wrapping around, so a recorded game
+    // can be replayed against the same words. The words do not have to be in the dictionary.
+    public synchronized void fixWords(List<String> words) {
+        List<String> upper = new ArrayList<>();
+        for (String word : words) {
+            upper.add(word.trim().toUpperCase());
+        }
+        fixedWords = List.copyOf(upper);
+        currentIndex = 0;
+    }
+
+    public void resetWord() {
+        currentWord = "";
+    }
+
+    // Immutable snapshot of the word list: the list for random picks and a set for lookups
+    private static final class Dictionary {
+        static final Dictionary EMPTY = new Dictionary(List.of());
+
+        final List<String> words;
+        final Set<String> index;
+
+        Dictionary(List<String> words) {
+            this.words = List.copyOf(words);
+            this.index = Set.copyOf(words);
+        }
+
+        static Dictionary read(BufferedReader reader) throws IOException {
+            List<String> words = new ArrayList<>();
+            Set<String> seen = new HashSet<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim().toUpperCase();
+                if (line.length() == 5 && seen.add(line)) {
+                    words.add(line);
+                }
+            }
+            return new Dictionary(words);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,3 @@
+module com.example.finalproject.core {
+    exports com.example.finalproject.core;
+}
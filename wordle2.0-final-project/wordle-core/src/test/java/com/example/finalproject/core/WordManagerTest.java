@@ -0,0 +1,177 @@
+package com.example.finalproject.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class WordManagerTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void reloadReplacesTheWordList() throws IOException {
+        WordManager wordManager = new WordManager();
+        wordManager.reload(writeWords("small.txt", List.of("crane", "slate", "toolong", "abc")));
+
+        assertEquals(2, wordManager.size());
+        assertTrue(wordManager.isValidWord("CRANE"));
+        assertTrue(wordManager.isValidWord("slate"));
+        assertFalse(wordManager.isValidWord("audio"));
+        String word = wordManager.assignWord();
+        assertTrue(word.equals("CRANE") || word.equals("SLATE"));
+    }
+
+    @Test
+    void reloadKeepsTheCurrentListWhenTheFileHasNoWords() throws IOException {
+        WordManager wordManager = new WordManager();
+        wordManager.reload(writeWords("good.txt", List.of("crane")));
+
+        assertThrows(IOException.class, () -> wordManager.reload(writeWords("empty.txt", List.of("abc"))));
+        assertThrows(IOException.class, () -> wordManager.reload(tempDir.resolve("missing.txt")));
+        assertEquals(1, wordManager.size());
+        assertTrue(wordManager.isValidWord("crane"));
+    }
+
+    @Test
+    void fixedWordsAreUsedOneRoundAtATime() {
+        WordManager wordManager = new WordManager();
+        wordManager.fixWords(List.of("crane", " Slate"));
+
+        assertEquals("CRANE", wordManager.getCurrentWord());
+        assertEquals("CRANE", wordManager.getCurrentWord());
+        wordManager.resetWord();
+        assertEquals("SLATE", wordManager.getCurrentWord());
+        wordManager.resetWord();
+        assertEquals("CRANE", wordManager.getCurrentWord());
+    }
+
+    @Test
+    void guessesDoNotWaitForAReloadInProgress() throws Exception {
+        // A reload from a named pipe stays in progress until the pipe is closed, however long the test needs.
+        // Timing a real reload cannot tell a reader that waited on a lock from one that was just descheduled.
+        Path pipe = tempDir.resolve("words.fifo");
+        assumeTrue(makeFifo(pipe), "needs mkfifo to hold a reload open");
+        WordManager wordManager = new WordManager();
+        wordManager.reload(writeWords("before.txt", List.of("crane", "slate")));
+        String word = wordManager.getCurrentWord();
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reloader = new Thread(() -> {
+            try {
+                wordManager.reload(pipe);
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        reloader.start();
+        try (BufferedWriter writer = Files.newBufferedWriter(pipe)) { // Returns once the reload has opened the pipe
+            writer.write("AUDIO\n");
+            writer.flush();
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                assertTrue(wordManager.isValidWord("crane"));
+                assertFalse(wordManager.isValidWord("audio"), "Half-read list must not be visible");
+                assertEquals(word, wordManager.getCurrentWord());
+                assertEquals(2, wordManager.size());
+            }, "Guess checks waited for the reload");
+        }
+        reloader.join();
+
+        assertNull(failure.get(), () -> "Reload failed: " + failure.get());
+        assertTrue(wordManager.isValidWord("audio"));
+        assertFalse(wordManager.isValidWord("crane"));
+    }
+
+    @Test
+    void guessesSeeAWholeListWhileReloadsSwapIt() throws Exception {
+        // Two large lists that share CRANE; AAAAA is only in the first and NNNNN only in the second
+        Path first = writeWords("first.txt", generatedWords(20000, 'A'));
+        Path second = writeWords("second.txt", generatedWords(20000, 'N'));
+        WordManager wordManager = new WordManager();
+        wordManager.reload(first);
+
+        AtomicBoolean stop = new AtomicBoolean(false);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean sawFirst = new AtomicBoolean(false);
+        AtomicBoolean sawSecond = new AtomicBoolean(false);
+        List<Thread> guessers = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            Thread guesser = new Thread(() -> {
+                try {
+                    while (!stop.get()) {
+                        if (!wordManager.isValidWord("crane")) {
+                            throw new AssertionError("CRANE rejected during reload");
+                        }
+                        if (wordManager.isValidWord("aaaaa")) sawFirst.set(true);
+                        if (wordManager.isValidWord("NNNNN")) sawSecond.set(true);
+                        String assigned = wordManager.assignWord(); // All letters from one list's half of the alphabet
+                        if (!assigned.equals("CRANE") && !assigned.chars().allMatch(c -> c < 'N')
+                                && !assigned.chars().allMatch(c -> c >= 'N')) {
+                            throw new AssertionError("Assigned a word from neither list: " + assigned);
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            guessers.add(guesser);
+            guesser.start();
+        }
+
+        for (int i = 0; i < 40; i++) {
+            wordManager.reload(i % 2 == 0 ? second : first);
+            Thread.sleep(10);
+        }
+        stop.set(true);
+        for (Thread guesser : guessers) {
+            guesser.join();
+        }
+
+        assertNull(failure.get(), () -> "Guess thread failed: " + failure.get());
+        assertTrue(sawFirst.get() && sawSecond.get(), "Guessers should see each list while reloads swap them");
+    }
+
+    // Creates a named pipe; false where mkfifo is not available (e.g. Windows)
+    private static boolean makeFifo(Path path) {
+        try {
+            return new ProcessBuilder("mkfifo", path.toString()).inheritIO().start().waitFor() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Path writeWords(String name, List<String> words) throws IOException {
+        return Files.write(tempDir.resolve(name), words);
+    }
+
+    // CRANE plus count distinct five letter words whose letters start at the given offset
+    private static List<String> generatedWords(int count, char first) {
+        List<String> words = new ArrayList<>(count + 1);
+        words.add("CRANE");
+        for (int i = 0; i < count; i++) {
+            char[] letters = new char[5];
+            int n = i;
+            for (int j = 0; j < 5; j++) {
+                letters[j] = (char) ('A' + (first - 'A' + n % 13) % 26);
+                n /= 13;
+            }
+            words.add(new String(letters));
+        }
+        return words;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.finalproject.server;
+
+// Simple token bucket used to rate limit the lines a single client can send.
+// Not thread safe: each ClientHandler owns one and only touches it from its own thread.
+class TokenBucket {
+    private final long capacity;          // Maximum burst size in tokens
+    private final long nanosPerToken;     // How long it takes to earn one token back
+    private long tokens;
+    private long lastRefill;
+
+    TokenBucket(long capacity, long refillPerSecond) {
+        this(capacity, refillPerSecond, System.nanoTime());
+    }
+
+    // Starts the clock at the given nanoTime; TrafficReplay uses this to run a bucket over recorded times
+    TokenBucket(long capacity, long refillPerSecond, long startNanos) {
+        this.capacity = capacity;
+        this.nanosPerToken = 1_000_000_000L / Math.max(1, refillPerSecond);
+        this.tokens = capacity; // Start full so normal play is never throttled
+        this.lastRefill = startNanos;
+    }
+
+    // Takes one token if available. Only does long arithmetic, so it is cheap enough per line.
+    boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    boolean tryAcquire(long now) {
+        long earned = (now - lastRefill) / nanosPerToken;
+        if (earned > 0) {
+            tokens = Math.min(capacity, tokens + earned);
+            lastRefill += earned * nanosPerToken; // Keep the leftover fraction for next time
+        }
+        if (tokens > 0) {
+            tokens--;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.finalproject.server;
+
+import com.example.finalproject.core.Protocol;
+import com.example.finalproject.core.Scoring;
+import com.example.finalproject.core.WordManager;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+// Many-round tournament: players are split into rooms, every room plays each round in parallel on the
+// worker pool, and afterwards the per-room standings are merged into global standings on the same pool.
+// Players are only sent a message when their rank changes. WordleServer runs it against live players
+// (the "tournament" console commands); TournamentSimulation runs it with bots as a load test.
+public class Tournament {
+    // Overall order: most words solved, then the single-game rule (fewest attempts, then fastest),
+    // then name so equal players always come out in the same order
+    static final Comparator<Participant> STANDINGS = (a, b) -> {
+        if (a.solved != b.solved) {
+            return Integer.compare(b.solved, a.solved);
+        }
+        int byScore = Scoring.compare(a.attempts, a.timeMillis, b.attempts, b.timeMillis);
+        return byScore != 0 ? byScore : a.name.compareTo(b.name);
+    };
+
+    // Plays one round in one room, calling recordRound on every player in it. Runs on the worker pool;
+    // a room that waits on people should block through ForkJoinPool.managedBlock so the pool can compensate.
+    public interface Room {
+        void play(int round, String word, List<Participant> players) throws Exception;
+    }
+
+    private final List<List<Participant>> rooms = new ArrayList<>();
+    private final ForkJoinPool workers; // Runs rooms, the standings merge and rank pushes
+    private final WordManager wordManager;
+    private final Room room;
+    private Participant[] standings = new Participant[0];
+
+    public Tournament(List<Participant> players, int roomSize, ForkJoinPool workers, WordManager wordManager, Room room) {
+        if (roomSize <= 0) {
+            throw new IllegalArgumentException("Room size must be positive, got " + roomSize);
+        }
+        for (int i = 0; i < players.size(); i += roomSize) {
+            rooms.add(List.copyOf(players.subList(i, Math.min(i + roomSize, players.size()))));
+        }
+        this.workers = workers;
+        this.wordManager = wordManager;
+        this.room = room;
+    }
+
+    // Plays the given number of rounds one after another
+    public void run(int rounds) throws InterruptedException {
+        for (int round = 1; round <= rounds; round++) {
+            playRound(round);
+        }
+    }
+
+    // Plays one round in every room at once, then publishes the new standings
+    public Participant[] playRound(int round) throws InterruptedException {
+        String word = wordManager.assignWord(); // Same word in every room so the round is fair
+        List<ForkJoinTask<Participant[]>> results = new ArrayList<>(rooms.size());
+        for (List<Participant> players : rooms) {
+            results.add(workers.submit(() -> playRoom(round, word, players)));
+        }
+
+        Participant[][] sortedRooms = new Participant[rooms.size()][];
+        for (int i = 0; i < sortedRooms.length; i++) {
+            try {
+                sortedRooms[i] = results.get(i).get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Room " + i + " failed in round " + round, e.getCause());
+            }
+        }
+
+        long transitionStart = System.nanoTime();
+        standings = sortedRooms.length == 0 ? new Participant[0]
+                : workers.invoke(new MergeTask(sortedRooms, 0, sortedRooms.length));
+        int changed = pushRankDeltas();
+        long transitionMs = (System.nanoTime() - transitionStart) / 1_000_000;
+        System.out.println("🏁 Round " + round + " done: " + standings.length + " players in " + rooms.size()
+                + " rooms, " + changed + " rank updates sent, standings ready in " + transitionMs + "ms");
+        return standings;
+    }
+
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    public Participant[] getStandings() {
+        return standings.clone();
+    }
+
+    // One room's round, followed by sorting that room's players so the merge only has to interleave rooms
+    private Participant[] playRoom(int round, String word, List<Participant> players) {
+        try {
+            room.play(round, word, players);
+        } catch (Exception e) {
+            // A broken room only costs its own players this round
+            System.err.println("Room failed in round " + round + ": " + e.getMessage());
+        }
+        Participant[] sorted = players.toArray(new Participant[0]);
+        Arrays.sort(sorted, STANDINGS);
+        return sorted;
+    }
+
+    // Assigns ranks from the merged standings and tells only the players whose rank moved, one task per room
+    private int pushRankDeltas() throws InterruptedException {
+        int changed = 0;
+        for (int i = 0; i < standings.length; i++) {
+            Participant p = standings[i];
+            p.previousRank = p.rank;
+            p.rank = i + 1;
+            if (p.rank != p.previousRank) {
+                changed++;
+            }
+        }
+
+        int total = standings.length;
+        List<Callable<Void>> pushes = new ArrayList<>(rooms.size());
+        for (List<Participant> players : rooms) {
+            pushes.add(() -> {
+                for (Participant p : players) {
+                    if (p.rank != p.previousRank) {
+                        String move = p.previousRank == 0 ? "new" : String.format("%+d", p.previousRank - p.rank);
+                        p.sink.accept(Protocol.SERVER + "Tournament rank " + p.rank + " of " + total + " (" + move + ")");
+                    }
+                }
+                return null;
+            });
+        }
+        workers.invokeAll(pushes);
+        return changed;
+    }
+
+    // A tournament player and their running totals across rounds
+    public static final class Participant {
+        private final String name;
+        private final Consumer<String> sink; // Where rank updates are sent, e.g. ClientHandler::sendMessage
+        private int solved;
+        private int attempts;
+        private long timeMillis;
+        private int rank; // 0 until the first round is ranked
+        private int previousRank;
+
+        public Participant(String name, Consumer<String> sink) {
+            this.name = name;
+            this.sink = sink;
+        }
+
+        // Adds one round's outcome; like announceResults, attempts and time only count when the word was guessed
+        public void recordRound(boolean guessedCorrectly, int attemptsUsed, long millis) {
+            if (guessedCorrectly) {
+                solved++;
+                attempts += attemptsUsed;
+                timeMillis += millis;
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getSolved() {
+            return solved;
+        }
+
+        public int getRank() {
+            return rank;
+        }
+
+        @Override
+        public String toString() {
+            return name + " - " + solved + " solved, " + attempts + " attempts, " + timeMillis / 1000 + "s";
+        }
+    }
+
+    // Parallel k-way merge: splits the sorted rooms in half, merges each half on the fork/join pool,
+    // then merges the two results, giving O(n log k) work for n players in k rooms
+    static class MergeTask extends RecursiveTask<Participant[]> {
+        private final Participant[][] sorted;
+        private final int from;
+        private final int to;
+
+        MergeTask(Participant[][] sorted, int from, int to) {
+            this.sorted = sorted;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Participant[] compute() {
+            if (to - from == 1) {
+                return sorted[from];
+            }
+            int mid = (from + to) >>> 1;
+            MergeTask left = new MergeTask(sorted, from, mid);
+            left.fork();
+            Participant[] right = new MergeTask(sorted, mid, to).compute();
+            return merge(left.join(), right);
+        }
+
+        private static Participant[] merge(Participant[] a, Participant[] b) {
+            Participant[] out = new Participant[a.length + b.length];
+            int i = 0, j = 0, k = 0;
+            while (i < a.length && j < b.length) {
+                out[k++] = STANDINGS.compare(a[i], b[j]) <= 0 ? a[i++] : b[j++];
+            }
+            while (i < a.length) out[k++] = a[i++];
+            while (j < b.length) out[k++] = b[j++];
+            return out;
+        }
+    }
+}
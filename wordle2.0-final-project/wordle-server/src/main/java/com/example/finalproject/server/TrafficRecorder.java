@@ -0,0 +1,121 @@
+package com.example.finalproject.server;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Records every inbound line per connection with nanosecond timing, so TrafficReplay can re-run it later.
+//
+// File format: the MAGIC int and VERSION byte, then one record per event:
+//   type byte, varint connection id, varint nanos since the previous record,
+//   and for LINE a varint byte length followed by the UTF-8 text.
+// THROTTLED and IGNORED follow the LINE they describe: the server dropped it without a reply.
+// WORD is the word the connection's game was assigned: a varint round number, then the word as for LINE.
+// Version 1 files have no THROTTLED, IGNORED or WORD; version 2 WORD records have no round number.
+// Delta-encoded times and varints keep a typical guess line to about 10 bytes.
+class TrafficRecorder implements Closeable {
+    static final int MAGIC = 0x57524450; // "WRDP"
+    static final byte VERSION = 3;
+    static final byte OPEN = 0;
+    static final byte LINE = 1;
+    static final byte CLOSE = 2;
+    static final byte THROTTLED = 3; // Previous line dropped by the rate limiter
+    static final byte IGNORED = 4;   // Previous line got no FEEDBACK reply: sent after the game, or between tournament rounds
+    static final byte WORD = 5;
+
+    private final DataOutputStream out;
+    private final AtomicInteger nextConnectionId = new AtomicInteger();
+    private long lastNanos;
+    private boolean closed = false;
+
+    TrafficRecorder(Path file) throws IOException {
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        lastNanos = System.nanoTime();
+    }
+
+    // Returns the id to pass to line() and closed() for this connection
+    int opened() {
+        int id = nextConnectionId.getAndIncrement();
+        write(OPEN, id, null);
+        return id;
+    }
+
+    void line(int connectionId, String line) {
+        write(LINE, connectionId, line);
+    }
+
+    void throttled(int connectionId) {
+        write(THROTTLED, connectionId, null);
+    }
+
+    void ignored(int connectionId) {
+        write(IGNORED, connectionId, null);
+    }
+
+    void word(int connectionId, int round, String word) {
+        write(WORD, connectionId, round, word);
+    }
+
+    void closed(int connectionId) {
+        write(CLOSE, connectionId, null);
+    }
+
+    // The timestamp is taken under the lock so deltas in the file are never negative
+    private void write(byte type, int connectionId, String line) {
+        write(type, connectionId, -1, line);
+    }
+
+    private synchronized void write(byte type, int connectionId, long round, String line) {
+        if (closed) return;
+        try {
+            long now = System.nanoTime();
+            out.writeByte(type);
+            writeVarLong(out, connectionId);
+            writeVarLong(out, now - lastNanos);
+            lastNanos = now;
+            if (round >= 0) {
+                writeVarLong(out, round);
+            }
+            if (line != null) {
+                byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(out, bytes.length);
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            // Capture is best effort; never let it break a game
+            System.err.println("Traffic capture stopped: " + e.getMessage());
+            closed = true;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        out.close();
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in capture file");
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.finalproject.server;
+
+import com.example.finalproject.core.Protocol;
+
+import java.io.*;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Replays a TrafficRecorder capture against a running WordleServer with the same timing, and reports
+// reply latency. Usage: TrafficReplay <capture file> [host] [port] [speed] [copies]
+//   speed  - time compression, e.g. 10 replays ten times faster (default 1)
+//   copies - run the capture N times side by side, with "#n" appended to each username (default 1)
+// Run the target with -Dwordle.word set to the words printed at startup so it plays the recorded games,
+// and pass the replay the same -Dwordle.rateBurst / -Dwordle.ratePerSecond as the target.
+public class TrafficReplay {
+    // Follow-up lines the server sends after a guess's own reply; these are not replies to a sent line
+    private static final String[] FOLLOW_UPS = {"You guessed it", "Out of attempts"};
+    private static final String WORD_WAS = "The word was: ";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: TrafficReplay <capture file> [host] [port] [speed] [copies]");
+            System.exit(2);
+        }
+        Path file = Paths.get(args[0]);
+        String host = args.length > 1 ? args[1] : "localhost";
+        int port = args.length > 2 ? Integer.parseInt(args[2]) : Protocol.DEFAULT_PORT;
+        double speed = args.length > 3 ? Double.parseDouble(args[3]) : 1.0;
+        int copies = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+
+        List<Connection> connections = readCapture(file);
+        int lines = 0;
+        int dropped = 0;
+        int changed = 0;
+        for (Connection c : connections) {
+            lines += c.lines.size();
+            changed += c.planReplies(speed, WordleServer.RATE_BURST, WordleServer.RATE_PER_SECOND);
+            for (int i = 1; i < c.lines.size(); i++) {
+                if (!c.expectsReply[i]) dropped++;
+            }
+        }
+        List<String> words = roundWords(connections);
+        System.out.println("▶️ Replaying " + connections.size() + " connections, " + lines + " lines x" + copies
+                + " at " + speed + "x speed against " + host + ":" + port);
+        if (!words.isEmpty()) {
+            System.out.println("📌 Recorded words: start the target with -Dwordle.word=" + String.join(",", words));
+        }
+        if (dropped > 0) {
+            System.out.println("Expecting no reply to " + dropped + " lines the server drops (throttled, or sent after the game ended)");
+        }
+        if (changed > 0) {
+            System.out.println("⚠️ " + changed + " lines would be rate limited differently than when recorded (burst " + WordleServer.RATE_BURST
+                    + ", " + WordleServer.RATE_PER_SECOND + "/s at " + speed + "x); the replayed games will not match the capture."
+                    + " Use the recording server's -Dwordle.rateBurst and -Dwordle.ratePerSecond, or a lower speed.");
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        AtomicLong unanswered = new AtomicLong();
+        AtomicLong wrongWord = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(connections.size() * copies);
+        long start = System.nanoTime() + 100_000_000L; // Small head start so every thread is ready
+        for (int copy = 1; copy <= copies; copy++) {
+            for (Connection c : connections) {
+                String suffix = copies > 1 ? "#" + copy : "";
+                Thread t = new Thread(() -> {
+                    try {
+                        c.replay(host, port, start, speed, suffix, histogram, unanswered, wrongWord);
+                    } catch (IOException | InterruptedException e) {
+                        System.err.println("Connection " + c.id + suffix + " failed: " + e.getMessage());
+                    } finally {
+                        done.countDown();
+                    }
+                });
+                t.setDaemon(true);
+                t.start();
+            }
+        }
+        done.await();
+
+        System.out.println("Replies: " + histogram.count() + ", unanswered lines: " + unanswered.get());
+        System.out.println("Latency p50 <= " + histogram.percentile(50) + "us, p90 <= " + histogram.percentile(90)
+                + "us, p99 <= " + histogram.percentile(99) + "us, max <= " + histogram.percentile(100) + "us");
+        histogram.print(System.out);
+        if (wrongWord.get() > 0) {
+            System.out.println("⚠️ " + wrongWord.get() + " games ended on a different word than recorded; is the target running with -Dwordle.word?");
+        }
+    }
+
+    // One word per recorded round, in round order, to pass to the target as -Dwordle.word. Connections
+    // that played the same round share one entry; a word that comes up again in a later round is repeated.
+    static List<String> roundWords(List<Connection> connections) {
+        SortedMap<Integer, String> byRound = new TreeMap<>();
+        List<Connection> unnumbered = new ArrayList<>(); // Version 2 captures do not record the round
+        for (Connection c : connections) {
+            if (c.word == null) continue;
+            if (c.round >= 0) {
+                byRound.put(c.round, c.word);
+            } else {
+                unnumbered.add(c);
+            }
+        }
+        List<String> words = new ArrayList<>(byRound.values());
+        // Best effort for old captures: take the words in the order they were assigned and treat a change of word as a new round
+        unnumbered.sort(Comparator.comparingLong(c -> c.wordNanos));
+        for (Connection c : unnumbered) {
+            if (words.isEmpty() || !words.get(words.size() - 1).equals(c.word)) {
+                words.add(c.word);
+            }
+        }
+        return words;
+    }
+
+    // Groups the capture's records by connection, with times measured from the start of the capture
+    static List<Connection> readCapture(Path file) throws IOException {
+        Map<Integer, Connection> byId = new LinkedHashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != TrafficRecorder.MAGIC) {
+                throw new IOException(file + " is not a traffic capture");
+            }
+            int version = in.readByte();
+            if (version > TrafficRecorder.VERSION) {
+                throw new IOException(file + " is a version " + version + " capture, newer than this replay understands");
+            }
+            long now = 0;
+            while (true) {
+                int type = in.read();
+                if (type == -1) break;
+                int id = (int) TrafficRecorder.readVarLong(in);
+                now += TrafficRecorder.readVarLong(in);
+                Connection c = byId.computeIfAbsent(id, Connection::new);
+                if (type == TrafficRecorder.OPEN) {
+                    c.openNanos = now;
+                } else if (type == TrafficRecorder.LINE) {
+                    c.lines.add(readText(in));
+                    c.lineNanos.add(now);
+                } else if (type == TrafficRecorder.THROTTLED) {
+                    c.throttledLines.add(c.lines.size() - 1);
+                } else if (type == TrafficRecorder.IGNORED) {
+                    c.ignoredLines.add(c.lines.size() - 1);
+                } else if (type == TrafficRecorder.WORD) {
+                    c.round = version >= 3 ? (int) TrafficRecorder.readVarLong(in) : -1;
+                    c.word = readText(in);
+                    c.wordNanos = now;
+                } else if (type == TrafficRecorder.CLOSE) {
+                    c.closeNanos = now;
+                } else {
+                    throw new IOException("Unknown record type " + type);
+                }
+            }
+        } catch (EOFException e) {
+            // Capture cut off mid-record (server killed); replay what was complete
+        }
+        return new ArrayList<>(byId.values());
+    }
+
+    private static String readText(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[(int) TrafficRecorder.readVarLong(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // One recorded connection and its inbound lines
+    static class Connection {
+        final int id;
+        final List<String> lines = new ArrayList<>();
+        final List<Long> lineNanos = new ArrayList<>();
+        final Set<Integer> throttledLines = new HashSet<>(); // Indexes of lines the recording server rate limited
+        final Set<Integer> ignoredLines = new HashSet<>();   // Indexes of lines sent after the game had ended
+        String word; // Word the recorded game was played with, if the capture has it
+        int round = -1; // Server round the word belongs to
+        long wordNanos;
+        boolean[] expectsReply; // Set by planReplies
+        long openNanos;
+        long closeNanos = -1;
+
+        Connection(int id) {
+            this.id = id;
+        }
+
+        // Works out which lines the target will answer, running a TokenBucket with its limits over the
+        // speed-scaled send times the same way ClientHandler does. Lines the recording server ignored
+        // stay unanswered. Returns how many lines get a different rate-limit outcome than when recorded.
+        int planReplies(double speed, int burst, int perSecond) {
+            expectsReply = new boolean[lines.size()]; // The username line gets no reply
+            TokenBucket bucket = new TokenBucket(burst, perSecond, (long) (openNanos / speed));
+            int changed = 0;
+            for (int i = 1; i < lines.size(); i++) {
+                if (ignoredLines.contains(i)) continue;
+                if (lines.get(i).equals(Protocol.TIMED_OUT)) { // Never rate limited
+                    expectsReply[i] = true;
+                    continue;
+                }
+                expectsReply[i] = bucket.tryAcquire((long) (lineNanos.get(i) / speed));
+                if (expectsReply[i] == throttledLines.contains(i)) changed++;
+            }
+            return changed;
+        }
+
+        // Sends each line at its recorded time (scaled by speed). The server answers the lines it does not
+        // drop in order, so a reader thread matches replies to the sends planReplies expects an answer to.
+        void replay(String host, int port, long start, double speed, String suffix, LatencyHistogram histogram,
+                    AtomicLong unanswered, AtomicLong wrongWord) throws IOException, InterruptedException {
+            sleepUntil(start + (long) (openNanos / speed));
+            try (Socket socket = new Socket(host, port)) {
+                PrintWriter out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                ConcurrentLinkedQueue<Long> sent = new ConcurrentLinkedQueue<>();
+
+                Thread reader = new Thread(() -> {
+                    try {
+                        String reply;
+                        while ((reply = in.readLine()) != null) {
+                            int wordAt = reply.indexOf(WORD_WAS);
+                            if (word != null && wordAt >= 0 && !reply.substring(wordAt + WORD_WAS.length()).trim().equals(word)) {
+                                wrongWord.incrementAndGet();
+                            }
+                            if (isReply(reply)) {
+                                Long sentAt = sent.poll();
+                                if (sentAt != null) {
+                                    histogram.record((System.nanoTime() - sentAt) / 1000);
+                                }
+                            }
+                        }
+                    } catch (IOException ignored) {
+                        // Socket closed at the end of the replay
+                    }
+                });
+                reader.setDaemon(true);
+                reader.start();
+
+                for (int i = 0; i < lines.size(); i++) {
+                    sleepUntil(start + (long) (lineNanos.get(i) / speed));
+                    String line = i == 0 ? lines.get(i) + suffix : lines.get(i); // First line is the username
+                    if (expectsReply[i]) {
+                        sent.add(System.nanoTime());
+                    }
+                    out.println(line);
+                }
+
+                long end = closeNanos >= 0 ? closeNanos : lineNanos.isEmpty() ? openNanos : lineNanos.get(lineNanos.size() - 1);
+                sleepUntil(start + (long) (end / speed));
+                socket.shutdownOutput();
+                reader.join(2000); // Give the last replies a moment to arrive
+                unanswered.addAndGet(sent.size());
+            }
+        }
+
+        private static boolean isReply(String line) {
+            if (!line.startsWith(Protocol.FEEDBACK)) return false;
+            for (String followUp : FOLLOW_UPS) {
+                if (line.contains(followUp)) return false;
+            }
+            return true;
+        }
+
+        private static void sleepUntil(long deadline) throws InterruptedException {
+            long wait;
+            while ((wait = deadline - System.nanoTime()) > 0) {
+                Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+            }
+        }
+    }
+
+    // Power-of-two latency buckets in microseconds; bucket i holds values below 2^i
+    static class LatencyHistogram {
+        private final AtomicLongArray buckets = new AtomicLongArray(64);
+
+        void record(long micros) {
+            buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(Math.max(0, micros)));
+        }
+
+        long count() {
+            long total = 0;
+            for (int i = 0; i < buckets.length(); i++) total += buckets.get(i);
+            return total;
+        }
+
+        // Upper bound of the bucket holding the given percentile
+        long percentile(double p) {
+            long total = count();
+            if (total == 0) return 0;
+            long target = (long) Math.ceil(total * p / 100.0);
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= target) return 1L << i;
+            }
+            return Long.MAX_VALUE;
+        }
+
+        void print(PrintStream out) {
+            for (int i = 0; i < buckets.length(); i++) {
+                long n = buckets.get(i);
+                if (n > 0) {
+                    out.printf("  < %8dus  %d%n", 1L << i, n);
+                }
+            }
+        }
+    }
+}
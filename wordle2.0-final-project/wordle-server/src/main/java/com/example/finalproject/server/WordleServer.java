@@ -0,0 +1,757 @@
+package com.example.finalproject.server;
+
+import com.example.finalproject.core.Protocol;
+import com.example.finalproject.core.Scoring;
+import com.example.finalproject.core.WordManager;
+
+import java.io.*;
+import java.net.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class WordleServer {
+    // Server configuration and shared resources
+    private static final int PORT = Integer.getInteger("wordle.port", Protocol.DEFAULT_PORT); // Server port for client connections
+    private static final Map<String, ClientHandler> clients = new HashMap<>(); // Stores usernames and their handlers
+    private static final List<ClientHandler> clientHandlers = new ArrayList<>(); // List of all active clients
+    private static final WordManager wordManager = new WordManager(); // Manages word assignment and checking
+    private static boolean gameStarted = false; // Prevents multiple timer starts
+    private static Thread gameTimerThread; // Global game countdown thread
+    private static int round = 0; // Counts resets, so the capture can tell rounds with the same word apart
+
+    // Flood protection settings, overridable with -D system properties
+    private static final int MAX_LINE_LENGTH = Integer.getInteger("wordle.maxLineLength", 64); // Longest line a client may send
+    private static final int IDLE_TIMEOUT_MS = Integer.getInteger("wordle.idleTimeoutMs", 300000); // Reap sockets silent for 5 minutes
+    static final int RATE_BURST = Integer.getInteger("wordle.rateBurst", 10); // Lines a client may send back to back; TrafficReplay reads these too
+    static final int RATE_PER_SECOND = Integer.getInteger("wordle.ratePerSecond", 2); // Sustained lines per second
+    private static final AtomicLong throttledSessions = new AtomicLong(); // Sessions that hit the rate limit at least once
+    private static final AtomicLong reapedSessions = new AtomicLong(); // Sessions closed for idling or oversized lines
+
+    // Drain settings: stop accepting, let the running round finish, then exit
+    private static final int DRAIN_TIMEOUT_MS = Integer.getInteger("wordle.drainTimeoutMs", 130000); // A full 2 minute round plus slack
+    private static final AtomicBoolean draining = new AtomicBoolean(false);
+    private static final CountDownLatch drained = new CountDownLatch(1); // Released when the first drain() completes
+    private static volatile ServerSocket serverSocket; // Closed by drain() to stop accepting
+    private static TrafficRecorder recorder; // Set when -Dwordle.capture names a file to record inbound traffic into
+
+    // Tournament mode: "tournament open" sends new players to a lobby, "tournament start" plays the rounds with them
+    private static final int TOURNAMENT_ROUND_MS = Integer.getInteger("wordle.tournamentRoundMs", 125000); // The client's 2 minute countdown plus slack
+    private static List<ClientHandler> tournamentLobby; // Non-null while registration is open; guarded by WordleServer.class
+    private static final AtomicBoolean tournamentRunning = new AtomicBoolean(false);
+
+    public static void main(String[] args) {
+        System.out.println("Wordle server started at port " + PORT);
+        String dictionaryFile = System.getProperty("wordle.dictionary"); // Optional external word list
+        if (dictionaryFile != null) {
+            Path dictionary = Paths.get(dictionaryFile).toAbsolutePath();
+            reloadDictionary(dictionary);
+            startDictionaryWatcher(dictionary);
+        }
+        String fixedWords = System.getProperty("wordle.word"); // Word, or comma separated words one per round, instead of random picks
+        if (fixedWords != null) {
+            wordManager.fixWords(Arrays.asList(fixedWords.split(",")));
+            System.out.println("📌 Rounds will use " + fixedWords.toUpperCase());
+        }
+        String captureFile = System.getProperty("wordle.capture");
+        if (captureFile != null) {
+            try {
+                recorder = new TrafficRecorder(Paths.get(captureFile));
+                System.out.println("🎙️ Capturing inbound traffic to " + captureFile);
+            } catch (IOException e) {
+                System.err.println("Could not start traffic capture: " + e.getMessage());
+            }
+        }
+        // SIGTERM (e.g. a rolling deploy) drains before the JVM exits; "drain" on stdin does the same
+        Runtime.getRuntime().addShutdownHook(new Thread(WordleServer::drain, "drain-on-shutdown"));
+        startAdminConsole();
+        try (ServerSocket listener = new ServerSocket(PORT)) {
+            serverSocket = listener;
+            while (!draining.get()) {
+                // Accept incoming client connections
+                Socket socket = new Socket();
+                socket = listener.accept();
+                ClientHandler handler = new ClientHandler(socket);
+                new Thread(handler).start(); // Handle each client in its own thread
+            }
+        } catch (IOException e) {
+            if (!draining.get()) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    // Reads admin commands from the server console: "drain", "stats", "tournament open" or
+    // "tournament start [rounds] [roomSize]"
+    private static void startAdminConsole() {
+        Thread console = new Thread(() -> {
+            try {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(System.in));
+                String command;
+                while ((command = reader.readLine()) != null) {
+                    if (command.trim().equalsIgnoreCase("drain")) {
+                        drain();
+                        System.exit(0);
+                    } else if (command.trim().equalsIgnoreCase("stats")) {
+                        printStats();
+                    } else if (command.trim().toLowerCase().startsWith("tournament")) {
+                        tournamentCommand(command.trim().split("\\s+"));
+                    }
+                }
+            } catch (IOException ignored) {
+                // No console attached, only signals can drain
+            }
+        }, "admin-console");
+        console.setDaemon(true);
+        console.start();
+    }
+
+    // Stops accepting players, waits for the running round to finish (bounded by DRAIN_TIMEOUT_MS),
+    // then flushes and closes every connection. Safe to call more than once; only the first call drains,
+    // later calls wait for it to finish.
+    public static void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            // E.g. the shutdown hook, when a console drain let main return and the JVM began to exit:
+            // returning now would let the JVM halt halfway through that drain
+            try {
+                drained.await(DRAIN_TIMEOUT_MS + 10000L, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return;
+        }
+        try {
+            drainOnce();
+        } finally {
+            drained.countDown();
+        }
+    }
+
+    private static void drainOnce() {
+        System.out.println("🚰 Draining: no longer accepting players");
+        try {
+            ServerSocket listener = serverSocket;
+            if (listener != null) {
+                listener.close(); // Unblocks accept() in main
+            }
+        } catch (IOException ignored) {}
+
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MS;
+        try {
+            while (roundInProgress() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (roundInProgress()) {
+            System.out.println("⏱️ Drain timeout reached, closing the round early");
+        }
+
+        List<ClientHandler> open;
+        synchronized (clients) {
+            open = new ArrayList<>(clients.values());
+        }
+        for (ClientHandler handler : open) {
+            handler.closeForShutdown();
+        }
+        if (recorder != null) {
+            try {
+                recorder.close(); // Flush the capture before the JVM exits
+            } catch (IOException ignored) {}
+        }
+        System.out.println("👋 Drain complete, " + open.size() + " connections closed");
+        printStats();
+    }
+
+    private static void tournamentCommand(String[] words) {
+        String usage = "Usage: tournament open | tournament start [rounds] [roomSize]";
+        try {
+            if (words.length == 2 && words[1].equalsIgnoreCase("open")) {
+                openTournament();
+            } else if (words.length >= 2 && words.length <= 4 && words[1].equalsIgnoreCase("start")) {
+                int rounds = words.length > 2 ? Integer.parseInt(words[2]) : 3;
+                int roomSize = words.length > 3 ? Integer.parseInt(words[3]) : 8;
+                if (rounds <= 0 || roomSize <= 0) {
+                    System.out.println(usage + " (rounds and room size must be positive)");
+                } else {
+                    startTournament(rounds, roomSize);
+                }
+            } else {
+                System.out.println(usage);
+            }
+        } catch (NumberFormatException e) {
+            System.out.println(usage);
+        }
+    }
+
+    // Opens registration: players who connect from now on wait in the lobby instead of joining the game
+    private static synchronized void openTournament() {
+        if (tournamentLobby != null || tournamentRunning.get()) {
+            System.out.println("A tournament is already open or running");
+            return;
+        }
+        tournamentLobby = new ArrayList<>();
+        System.out.println("🏟️ Tournament registration open: new players join the lobby");
+    }
+
+    // Closes registration and plays the tournament with the lobby on its own thread
+    private static void startTournament(int rounds, int roomSize) {
+        List<ClientHandler> entrants;
+        synchronized (WordleServer.class) {
+            if (tournamentLobby == null) {
+                System.out.println("No tournament is open; use \"tournament open\" first");
+                return;
+            }
+            entrants = tournamentLobby;
+            tournamentLobby = null;
+        }
+        entrants.removeIf(handler -> handler.left);
+        if (entrants.isEmpty()) {
+            System.out.println("No players registered, tournament cancelled");
+            return;
+        }
+        tournamentRunning.set(true);
+        new Thread(() -> runTournament(entrants, rounds, roomSize), "tournament").start();
+    }
+
+    private static void runTournament(List<ClientHandler> entrants, int rounds, int roomSize) {
+        Map<Tournament.Participant, ClientHandler> handlers = new IdentityHashMap<>();
+        List<Tournament.Participant> players = new ArrayList<>(entrants.size());
+        for (ClientHandler handler : entrants) {
+            handlers.put(handler.participant, handler);
+            players.add(handler.participant);
+        }
+        ForkJoinPool workers = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            Tournament tournament = new Tournament(players, roomSize, workers, wordManager,
+                    (round, word, roomPlayers) -> playTournamentRoom(round, rounds, word, roomPlayers, handlers));
+            System.out.println("🏟️ Tournament started: " + players.size() + " players in " + tournament.getRoomCount()
+                    + " rooms, " + rounds + " rounds");
+            tournament.run(rounds);
+
+            Tournament.Participant[] standings = tournament.getStandings();
+            System.out.println("🏆 Tournament over. Top 3:");
+            for (int i = 0; i < Math.min(3, standings.length); i++) {
+                System.out.println("• " + standings[i]);
+            }
+            String winner = standings[0].getSolved() > 0 ? "Winner: " + standings[0].getName() : "Nobody solved a word";
+            for (Tournament.Participant p : standings) {
+                handlers.get(p).closeWith(Protocol.SERVER + "🏆 Tournament over! You finished " + p.getRank() + " of "
+                        + standings.length + ". " + winner);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            workers.shutdown();
+            tournamentRunning.set(false);
+        }
+    }
+
+    // One room's round against live players: starts everyone on the word, waits until they have all
+    // finished or the round time is up, then records each result
+    private static void playTournamentRoom(int round, int rounds, String word, List<Tournament.Participant> players,
+                                           Map<Tournament.Participant, ClientHandler> handlers) throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(players.size());
+        for (Tournament.Participant p : players) {
+            handlers.get(p).startTournamentRound(round, rounds, word, finished);
+        }
+        long deadline = System.nanoTime() + TOURNAMENT_ROUND_MS * 1_000_000L;
+        // Managed so the pool adds a thread for other rooms while this one waits on people
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+            @Override
+            public boolean block() throws InterruptedException {
+                finished.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return finished.getCount() == 0 || System.nanoTime() - deadline >= 0;
+            }
+        });
+        for (Tournament.Participant p : players) {
+            handlers.get(p).endTournamentRound();
+        }
+    }
+
+    // True while a started round still has players who have not finished
+    private static synchronized boolean roundInProgress() {
+        if (!gameStarted) return false;
+        for (ClientHandler client : clientHandlers) {
+            if (!client.finished) return true;
+        }
+        return false;
+    }
+
+    // Loads the external word list; on failure the previous list stays in use
+    private static void reloadDictionary(Path file) {
+        try {
+            wordManager.reload(file);
+            System.out.println("📖 Loaded " + wordManager.size() + " words from " + file);
+        } catch (IOException e) {
+            System.err.println("Could not reload dictionary from " + file + ": " + e.getMessage());
+        }
+    }
+
+    // Watches the word list file and reloads it on change, on its own thread so guesses are never held up
+    private static void startDictionaryWatcher(Path file) {
+        Thread watcher = new Thread(() -> {
+            try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+                file.getParent().register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                while (true) {
+                    WatchKey key = watchService.take();
+                    boolean changed = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (file.getFileName().equals(event.context())) {
+                            changed = true;
+                        }
+                    }
+                    key.reset();
+                    if (changed) {
+                        Thread.sleep(200); // Let the editor finish writing before reading the file
+                        reloadDictionary(file);
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("Dictionary watcher stopped: " + e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "dictionary-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    // Sends a message to all connected clients
+    public static synchronized void broadcast(String message) {
+        for (ClientHandler handler : clientHandlers) {
+            handler.sendMessage(message);
+        }
+    }
+
+    // Builds and sends a list of connected usernames to all players
+    public static synchronized void sendClientList() {
+        StringBuilder list = new StringBuilder("Players: ");
+        for (ClientHandler client : clientHandlers) {
+            list.append(client.username).append(" ");
+        }
+        broadcast(Protocol.SERVER + list.toString().trim());
+    }
+
+    // Verifies if all clients have finished their game
+    public static synchronized void checkIfAllFinished() {
+        for (ClientHandler client : clientHandlers) {
+            if (!client.finished) return; // Someone is still playing
+        }
+        // Game is done, ready for reset or new round
+        resetGame();
+    }
+
+    // Analyzes results and broadcasts winner or endgame outcome
+    public static synchronized void announceResults() {
+        if (gameTimerThread != null && gameTimerThread.isAlive()) {
+            gameTimerThread.interrupt(); // Stop timer thread if still running
+        }
+
+        StringBuilder results = new StringBuilder("🏁 GAME OVER! Final Results: ");
+        ClientHandler winner = null;
+        long bestTime = Long.MAX_VALUE;
+        int bestAttempts = Integer.MAX_VALUE;
+
+        for (ClientHandler client : clientHandlers) {
+            String line = "• " + client.username;
+
+            if (client.guessedCorrectly) {
+                long timeTaken = (client.finishTime - client.startTime) / 1000;
+                line += " - " + client.attempts + " attempts, " + timeTaken + "s";
+
+                if (Scoring.compare(client.attempts, timeTaken, bestAttempts, bestTime) < 0) {
+                    winner = client;
+                    bestTime = timeTaken;
+                    bestAttempts = client.attempts;
+                }
+            } else {
+                line += " - ❌ Did not guess the word.";
+            }
+
+            results.append(line).append("\n");
+        }
+
+        if (winner != null) {
+            results.insert(0, "🏆 WINNER: " + winner.username + " guessed the word " + clientHandlers.get(0).assignedWord + " in " + bestAttempts + " attempts and " + bestTime + "s\n\n");
+        } else {
+            results.insert(0, "😢 No one guessed the word correctly. The correct word was: " + clientHandlers.get(0).assignedWord + "\n\n");
+        }
+
+        broadcast(Protocol.SERVER + results.toString());
+    }
+
+    // Drops a reaped client so the round does not wait on a dead connection
+    static synchronized void removeClient(ClientHandler handler) {
+        clientHandlers.remove(handler);
+        if (clientHandlers.isEmpty()) {
+            // Nobody left to announce results to
+            if (gameTimerThread != null && gameTimerThread.isAlive()) {
+                gameTimerThread.interrupt();
+            }
+            resetGame();
+        } else {
+            checkIfAllFinished();
+        }
+    }
+
+    // Flood protection counters, printed by the "stats" console command and at the end of a drain
+    private static void printStats() {
+        System.out.println("📊 Throttled sessions: " + getThrottledSessions() + ", reaped sessions: " + getReapedSessions());
+    }
+
+    public static long getThrottledSessions() {
+        return throttledSessions.get();
+    }
+
+    public static long getReapedSessions() {
+        return reapedSessions.get();
+    }
+
+    // Clears game state so a new round can start
+    public static synchronized void resetGame() {
+        clientHandlers.clear();
+        wordManager.resetWord();
+        round++;
+        gameStarted = false;
+    }
+
+    // Starts a timer that auto-triggers result announcement after 2 minutes
+    public static synchronized void startGameTimer() {
+        gameTimerThread = new Thread(() -> {
+            try {
+                Thread.sleep(120000); // 2 minutes
+                announceResults();
+            } catch (InterruptedException e) {
+                System.out.println("🛑 Game timer stopped early.");
+            }
+        });
+        gameTimerThread.start();
+    }
+
+    // Class to manage individual player interactions and game state
+    static class ClientHandler implements Runnable {
+        private final Socket socket;
+        private BufferedReader in;
+        private PrintWriter out;
+        private String username;
+        private String assignedWord;
+        private int attempts = 0;
+        private boolean finished = false;
+        private boolean guessedCorrectly = false;
+        private long startTime;
+        private long finishTime;
+        private final TokenBucket rateLimiter = new TokenBucket(RATE_BURST, RATE_PER_SECOND);
+        private final StringBuilder lineBuffer = new StringBuilder(MAX_LINE_LENGTH); // Reused for every line read
+        private boolean throttled = false;
+        private int captureId = -1; // Connection id in the traffic capture, if one is running
+        private Tournament.Participant participant; // Set when the player registered for a tournament
+        private CountDownLatch roundFinished; // The room's latch while a tournament round is on; guarded by this
+        private volatile boolean left = false; // Connection closed
+
+        public ClientHandler(Socket socket) {
+            this.socket = socket;
+        }
+
+        // Reads one line like BufferedReader.readLine, but refuses lines longer than MAX_LINE_LENGTH
+        private String readLine() throws IOException {
+            lineBuffer.setLength(0);
+            int c;
+            while ((c = in.read()) != -1) {
+                if (c == '\n') {
+                    break;
+                }
+                if (c == '\r') {
+                    continue;
+                }
+                if (lineBuffer.length() == MAX_LINE_LENGTH) {
+                    throw new FrameTooLongException();
+                }
+                lineBuffer.append((char) c);
+            }
+            if (c == -1 && lineBuffer.length() == 0) {
+                return null; // Client closed the connection
+            }
+            String line = lineBuffer.toString();
+            if (recorder != null) {
+                recorder.line(captureId, line);
+            }
+            return line;
+        }
+
+        // Send message to the connected client
+        public void sendMessage(String message) {
+            out.println(message);
+        }
+
+        // Tells the client the server is going away
+        void closeForShutdown() {
+            closeWith(Protocol.SERVER + "Server is shutting down. Please reconnect in a moment.");
+        }
+
+        // Sends a last message, flushes what is queued and half-closes the socket,
+        // so the client reads everything before seeing end of stream
+        void closeWith(String message) {
+            if (out == null) return;
+            out.println(message);
+            out.flush();
+            try {
+                socket.shutdownOutput();
+            } catch (IOException ignored) {}
+        }
+
+        // Drops lines from clients that are flooding the server, without validating or replying
+        private boolean acquireToken() {
+            if (rateLimiter.tryAcquire()) {
+                return true;
+            }
+            if (recorder != null) {
+                recorder.throttled(captureId);
+            }
+            if (!throttled) {
+                throttled = true;
+                throttledSessions.incrementAndGet();
+                System.out.println("⚠️ Throttling " + username + " (throttled sessions: " + throttledSessions.get() + ")");
+            }
+            return false;
+        }
+
+        // Validates a guess and sends its feedback, counting the attempt. Returns the feedback, or null
+        // after telling the player the word is not in the list.
+        private String scoreGuess(String guess) {
+            // Word validation; the assigned word always counts, even if a dictionary reload dropped it
+            if (!guess.equalsIgnoreCase(assignedWord) && !wordManager.isValidWord(guess)) {
+                out.println(Protocol.FEEDBACK + "Invalid Guess! Word not in list!");
+                return null;
+            }
+
+            // Feedback logic
+            attempts++;
+            String feedback = wordManager.checkGuess(assignedWord, guess.toUpperCase()); // Validation is case-insensitive, scoring is not
+            out.println(Protocol.FEEDBACK + feedback);
+            return feedback;
+        }
+
+        // Registers the player for the tournament if registration is open
+        private boolean joinTournamentLobby() {
+            synchronized (WordleServer.class) {
+                if (tournamentLobby == null) {
+                    return false;
+                }
+                participant = new Tournament.Participant(username, this::sendMessage);
+                tournamentLobby.add(this);
+                return true;
+            }
+        }
+
+        // Called on the worker pool: resets the player's game to the round's word
+        synchronized void startTournamentRound(int round, int rounds, String word, CountDownLatch roomFinished) {
+            assignedWord = word;
+            attempts = 0;
+            guessedCorrectly = false;
+            finished = false;
+            startTime = System.currentTimeMillis();
+            roundFinished = roomFinished;
+            if (left) {
+                finishTournamentRound(); // Disconnected; nothing to wait for
+                return;
+            }
+            sendMessage(Protocol.SERVER + Protocol.TOURNAMENT_ROUND + round + " of " + rounds + " is starting!");
+        }
+
+        // Called on the worker pool when the room's round is over: times out a player still guessing and
+        // adds the round to their tournament totals
+        synchronized void endTournamentRound() {
+            if (!finished) {
+                sendMessage(Protocol.FEEDBACK + "Time's up! The word was: " + assignedWord);
+                finishTournamentRound();
+            }
+            participant.recordRound(guessedCorrectly, attempts, finishTime - startTime);
+            roundFinished = null;
+        }
+
+        private void finishTournamentRound() {
+            finished = true;
+            roundFinished.countDown();
+        }
+
+        // Plays a line from a tournament player against the current round. Finishing only ends this
+        // player's round; the connection stays open for the next one.
+        private synchronized void playTournamentLine(String guess) {
+            if (roundFinished == null || finished) {
+                if (recorder != null) {
+                    recorder.ignored(captureId);
+                }
+                sendMessage(Protocol.SERVER + "Wait for the next tournament round");
+                return;
+            }
+            if (guess.equals(Protocol.TIMED_OUT)) { // Not rate limited, like in the normal game
+                sendMessage(Protocol.FEEDBACK + "Time's up! The word was: " + assignedWord);
+                finishTournamentRound();
+                return;
+            }
+            if (!acquireToken()) return;
+            String feedback = scoreGuess(guess);
+            if (feedback == null) return;
+
+            if (feedback.equals("GGGGG")) {
+                guessedCorrectly = true;
+                finishTime = System.currentTimeMillis();
+                sendMessage(Protocol.FEEDBACK + "You guessed it in " + attempts + " tries! The word was: " + assignedWord);
+                finishTournamentRound();
+            } else if (attempts == 6) {
+                sendMessage(Protocol.FEEDBACK + " Out of attempts! The word was: " + assignedWord);
+                finishTournamentRound();
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (recorder != null) {
+                    captureId = recorder.opened();
+                }
+                socket.setSoTimeout(IDLE_TIMEOUT_MS); // Reads fail with SocketTimeoutException once idle too long
+                in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+                out = new PrintWriter(socket.getOutputStream(), true);
+
+                username = readLine(); // Get player name
+                if (username == null) return;
+                if (draining.get()) {
+                    // Connected just before the listener closed; send them on to the next node
+                    out.println(Protocol.SERVER + "Server is shutting down. Please reconnect in a moment.");
+                    return;
+                }
+                synchronized (clients) {
+                    clients.put(username, this);
+                }
+
+                if (joinTournamentLobby()) {
+                    System.out.println("🏟️ " + username + " joined the tournament lobby");
+                    sendMessage(Protocol.SERVER + "Registered for the tournament, waiting for it to start");
+                    String line;
+                    while ((line = readLine()) != null) {
+                        playTournamentLine(line);
+                    }
+                    return;
+                }
+
+                int joinedRound;
+                synchronized (WordleServer.class) { // Same lock as broadcast and the other roster methods
+                    assignedWord = wordManager.getCurrentWord(); // Shared word for all clients
+                    joinedRound = round; // Read with the word, so a reset in between cannot pair them wrongly
+                    clientHandlers.add(this);
+
+                    // Start game timer only once when both players join
+                    if (clientHandlers.size() == 2 && !gameStarted) {
+                        gameStarted = true;
+                        startGameTimer();
+                    }
+                }
+                System.out.println("[DEBUG] Assigned word for " + username + ": " + assignedWord);
+                if (recorder != null) {
+                    recorder.word(captureId, joinedRound, assignedWord); // So a replay can run the server with the same words
+                }
+
+                startTime = System.currentTimeMillis(); // Begin player timer
+                broadcast(username + " has joined the game!");
+                sendClientList();
+
+                // Main game loop
+                while (true) {
+                    String guess = readLine();
+                    if (guess == null) break;
+                    if (finished) {
+                        if (recorder != null) {
+                            recorder.ignored(captureId);
+                        }
+                        break;
+                    }
+
+                    // Not rate limited: dropping it would leave the player unfinished and hold up the round
+                    if (guess.equals(Protocol.TIMED_OUT)) {
+                        finished = true;
+                        out.println(Protocol.FEEDBACK + "Time's up! The word was: " + assignedWord);
+                        checkIfAllFinished();
+                        announceResults();
+                        break;
+                    }
+
+                    if (!acquireToken()) continue;
+                    String feedback = scoreGuess(guess);
+                    if (feedback == null) continue;
+
+                    if (feedback.equals("GGGGG")) {
+                        guessedCorrectly = true;
+                        finished = true;
+                        finishTime = System.currentTimeMillis();
+                        out.println(Protocol.FEEDBACK + "You guessed it in " + attempts + " tries! The word was: " + assignedWord);
+                        announceResults();
+                        checkIfAllFinished();
+                    } else if (attempts == 6) {
+                        finished = true;
+                        out.println(Protocol.FEEDBACK + " Out of attempts! The word was: " + assignedWord);
+                        checkIfAllFinished();
+                    }
+                }
+
+            } catch (SocketTimeoutException | FrameTooLongException e) {
+                // Idle or misbehaving connection: reclaim the socket and its handler
+                reapedSessions.incrementAndGet();
+                String who = username != null ? username : "unnamed connection " + socket.getRemoteSocketAddress();
+                System.out.println("🧹 Reaped " + who + " (" + (e instanceof FrameTooLongException ? "line too long" : "idle")
+                        + ", reaped sessions: " + reapedSessions.get() + ")");
+                if (participant == null) { // Tournament players are finished for their round in finally
+                    finished = true;
+                    if (username != null) {
+                        removeClient(this); // Never joined the roster otherwise
+                    }
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            } finally {
+                if (recorder != null && captureId >= 0) {
+                    recorder.closed(captureId);
+                }
+                left = true;
+                if (participant != null) {
+                    synchronized (this) {
+                        if (roundFinished != null && !finished) {
+                            finishTournamentRound(); // Don't hold the room up until the round times out
+                        }
+                    }
+                } else if (assignedWord != null && !finished) {
+                    // Player left mid-round; count them as done so the round, and any drain, is not held up
+                    finished = true;
+                    checkIfAllFinished();
+                }
+                if (username != null) {
+                    synchronized (clients) {
+                        clients.remove(username, this);
+                    }
+                }
+                try {
+                    socket.close();
+                } catch (IOException ignored) {}
+            }
+        }
+    }
+
+    // Thrown when a client sends a line longer than MAX_LINE_LENGTH
+    static class FrameTooLongException extends IOException {
+        FrameTooLongException() {
+            super("Line longer than " + MAX_LINE_LENGTH + " characters");
+        }
+    }
+}
\ No newline at end of file
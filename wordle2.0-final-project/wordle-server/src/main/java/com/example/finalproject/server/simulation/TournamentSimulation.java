@@ -0,0 +1,57 @@
+package com.example.finalproject.server.simulation;
+
+import com.example.finalproject.core.WordManager;
+import com.example.finalproject.server.Tournament;
+import com.example.finalproject.server.Tournament.Participant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Load test for Tournament: runs it with bot players instead of live connections, to check round
+// transitions (merge and rank pushes) stay fast with thousands of players.
+// java -m com.example.finalproject.server/com.example.finalproject.server.simulation.TournamentSimulation [players] [rounds] [roomSize]
+public class TournamentSimulation {
+    public static void main(String[] args) throws InterruptedException {
+        int playerCount = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int roomSize = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+
+        WordManager wordManager = new WordManager();
+        AtomicLong messages = new AtomicLong();
+        List<Participant> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Participant("bot" + i, message -> messages.incrementAndGet()));
+        }
+
+        // Bots guess random dictionary words until they solve it or run out of attempts
+        Tournament.Room simulated = (round, word, roomPlayers) -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (Participant p : roomPlayers) {
+                int attempts = 0;
+                boolean solved = false;
+                while (!solved && attempts < 6) {
+                    attempts++;
+                    String guess = random.nextInt(8) == 0 ? word : wordManager.assignWord();
+                    solved = wordManager.checkGuess(word, guess).equals("GGGGG");
+                }
+                p.recordRound(solved, attempts, attempts * 5000L + random.nextLong(5000));
+            }
+        };
+
+        ForkJoinPool workers = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            Tournament tournament = new Tournament(players, roomSize, workers, wordManager, simulated);
+            tournament.run(rounds);
+            System.out.println(messages.get() + " rank updates sent in total. Top 3:");
+            Participant[] standings = tournament.getStandings();
+            for (int i = 0; i < Math.min(3, standings.length); i++) {
+                System.out.println("• " + standings[i]);
+            }
+        } finally {
+            workers.shutdown();
+        }
+    }
+}
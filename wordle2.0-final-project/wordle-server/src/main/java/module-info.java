@@ -0,0 +1,5 @@
+module com.example.finalproject.server {
+    requires com.example.finalproject.core;
+
+    exports com.example.finalproject.server;
+}
@@ -0,0 +1,44 @@
+#!/usr/bin/env bash
+# Builds the headless server runtime image and trains an AppCDS archive for it.
+# Usage: build-image.sh <jdk home> <module path> <image dir>
+set -euo pipefail
+
+JDK="$1"
+MODULE_PATH="$2"
+IMAGE="$3"
+MODULE=com.example.finalproject.server
+MAIN=com.example.finalproject.server.WordleServer
+TRAINING_PORT=${TRAINING_PORT:-5099}
+
+# Only java.base plus our two modules
+rm -rf "$IMAGE"
+"$JDK/bin/jlink" --module-path "$MODULE_PATH" --add-modules "$MODULE" --output "$IMAGE" \
+    --strip-debug --no-header-files --no-man-pages
+
+# Default CDS archive for the JDK classes left in the image, the base layer for the dynamic archive below
+"$IMAGE/bin/java" -Xshare:dump > /dev/null
+
+# Training run: accept one connection and play a guess, then stop so the JVM dumps every class it loaded
+"$IMAGE/bin/java" -XX:ArchiveClassesAtExit="$IMAGE/lib/wordle-server.jsa" \
+    -Dwordle.port="$TRAINING_PORT" -m "$MODULE/$MAIN" &
+SERVER_PID=$!
+for _ in $(seq 100); do
+    if exec 3<>"/dev/tcp/127.0.0.1/$TRAINING_PORT"; then
+        break
+    fi 2>/dev/null
+    sleep 0.1
+done
+printf 'cds-training\nCRANE\nzzzzz\n' >&3
+timeout 1 cat <&3 > /dev/null || true # Drain replies so the server does not see a reset
+exec 3>&-
+kill -TERM "$SERVER_PID"
+wait "$SERVER_PID" || true
+
+# Launcher that maps the trained archive on every start
+cat > "$IMAGE/bin/wordle-server" <<'LAUNCHER'
+#!/bin/sh
+DIR=$(dirname "$0")
+exec "$DIR/java" -XX:SharedArchiveFile="$DIR/../lib/wordle-server.jsa" $JAVA_OPTS \
+    -m com.example.finalproject.server/com.example.finalproject.server.WordleServer "$@"
+LAUNCHER
+chmod +x "$IMAGE/bin/wordle-server"